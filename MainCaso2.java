@@ -8,7 +8,8 @@ public class MainCaso2 {
             System.out.println("\n=== MENU PRINCIPAL ===");
             System.out.println("1) Generar archivo de referencias (Opcion 1)");
             System.out.println("2) Simular NRU (Opcion 2)");
-            System.out.println("3) Salir");
+            System.out.println("3) Reproducir en memoria real (Linux)");
+            System.out.println("4) Salir");
             System.out.print("Seleccione una opcion: ");
             
             int opcion = sc.nextInt();
@@ -49,6 +50,22 @@ public class MainCaso2 {
                     break;
                     
                 case 3:
+                    System.out.print("Ingrese número de marcos: ");
+                    int marcosReal = sc.nextInt();
+                    sc.nextLine();
+                    
+                    System.out.print("Ingrese nombre del archivo de referencias: ");
+                    String refsReal = sc.nextLine();
+                    
+                    ReproductorMemoriaReal rep = new ReproductorMemoriaReal();
+                    try {
+                        rep.reproducir(refsReal, marcosReal);
+                    } catch (InterruptedException e) {
+                        e.printStackTrace();
+                    }
+                    break;
+                    
+                case 4:
                     System.out.println("Saliendo...");
                     sc.close();
                     System.exit(0);
@@ -0,0 +1,188 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+public class ReproductorMemoriaReal {
+
+    // Referencias del inicio de la traza usadas para calentar el JIT antes de medir
+    private static final int REFERENCIAS_CALENTAMIENTO = 100_000;
+
+    // Tamaño de página del sistema operativo asumido para el conteo de primer toque
+    private static final int PAGINA_SO = 4096;
+
+    // Se publica la suma de las lecturas para que el JIT no pueda eliminarlas
+    private volatile long sumidero;
+
+    /**
+     * Ejecuta la simulación NRU y luego reproduce la misma traza sobre un único
+     * mapeo de un archivo en disco de tamaño NP*TP, creado junto al archivo de
+     * referencias. Cada referencia toca el byte pagina*TP + offset (escritura si es
+     * 'W', lectura si es 'R') y el kernel decide qué páginas desalojar. Las fallas
+     * reales se miden con minflt/majflt de /proc/self/stat (solo Linux).
+     *
+     * Desde Java 17 no es posible limitar la memoria del propio proceso: el límite
+     * (memory.max del cgroup) debe imponerse al lanzar la JVM. Sin límite, las fallas
+     * medidas solo corresponden al primer toque de cada página.
+     *
+     * @param archivoReferencias  Archivo generado con la opción 1
+     * @param numMarcos           Marcos usados en la simulación
+     */
+    public void reproducir(String archivoReferencias, int numMarcos) throws InterruptedException {
+        if (leerFallas() == null) {
+            System.out.println("No se encontró /proc/self/stat; la reproducción real requiere Linux.");
+            return;
+        }
+
+        SimuladorNRU sim = new SimuladorNRU();
+        sim.simular(archivoReferencias, numMarcos);
+
+        long tamano = (long) sim.getNumPaginas() * sim.getPageSize();
+        if (tamano <= 0 || tamano > Integer.MAX_VALUE) {
+            System.out.println("Tamaño de archivo no válido para mapear: " + tamano + " bytes");
+            return;
+        }
+
+        List<Referencia> referencias = sim.getReferencias();
+
+        // Junto al archivo de referencias, para que el mapeo quede respaldado en disco (no tmpfs)
+        File directorio = new File(archivoReferencias).getAbsoluteFile().getParentFile();
+        File calentamiento = null;
+        File temporal = null;
+        try {
+            // Calentamiento con un prefijo de la traza sobre otro archivo
+            calentamiento = crearArchivoTemporal("caso2-warmup", directorio);
+            try (RandomAccessFile raf = new RandomAccessFile(calentamiento, "rw");
+                 FileChannel canal = raf.getChannel()) {
+                raf.setLength(tamano);
+                MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamano);
+                int n = Math.min(REFERENCIAS_CALENTAMIENTO, referencias.size());
+                tocarPaginas(buffer, referencias.subList(0, n), sim.getPageSize());
+            }
+
+            temporal = crearArchivoTemporal("caso2-replay", directorio);
+            try (RandomAccessFile raf = new RandomAccessFile(temporal, "rw");
+                 FileChannel canal = raf.getChannel()) {
+                raf.setLength(tamano);
+                MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamano);
+
+                long[] antes = leerFallas();
+                long inicio = System.nanoTime();
+                tocarPaginas(buffer, referencias, sim.getPageSize());
+                long fin = System.nanoTime();
+                long[] despues = leerFallas();
+
+                reportarResultados(sim, numMarcos, tamano, despues[0] - antes[0], despues[1] - antes[1], fin - inicio);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            if (calentamiento != null) {
+                calentamiento.delete();
+            }
+            if (temporal != null) {
+                temporal.delete();
+            }
+        }
+    }
+
+    private File crearArchivoTemporal(String prefijo, File directorio) throws IOException {
+        File archivo = File.createTempFile(prefijo, ".bin", directorio);
+        archivo.deleteOnExit();
+        return archivo;
+    }
+
+    private void tocarPaginas(MappedByteBuffer buffer, List<Referencia> referencias, int pageSize) {
+        long suma = 0;
+        for (Referencia r : referencias) {
+            int pos = r.pageNumber * pageSize + r.offset;
+            if (r.isWrite) {
+                buffer.put(pos, (byte) pos);
+            } else {
+                suma += buffer.get(pos);
+            }
+        }
+        sumidero = suma;
+    }
+
+    /**
+     * Lee minflt y majflt de /proc/self/stat. Retorna {minflt, majflt} o null si no
+     * está disponible. Los contadores son de todo el proceso (incluye GC y JIT).
+     */
+    private long[] leerFallas() {
+        try {
+            String stat = new String(Files.readAllBytes(Paths.get("/proc/self/stat")));
+            // El nombre del comando (campo 2) puede contener espacios: partir después de ')'
+            String[] campos = stat.substring(stat.lastIndexOf(')') + 2).trim().split(" ");
+            // campos[0] es el campo 3 (estado); minflt es el campo 10 y majflt el 12
+            return new long[] { Long.parseLong(campos[7]), Long.parseLong(campos[9]) };
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Lee el límite de memoria del cgroup del proceso (memory.max en cgroup v2 o
+     * memory.limit_in_bytes en v1). Retorna "max" si no hay límite, o null si no
+     * se pudo determinar.
+     */
+    private String leerLimiteCgroup() {
+        try {
+            for (String linea : Files.readAllLines(Paths.get("/proc/self/cgroup"))) {
+                String[] partes = linea.split(":", 3);
+                if (partes.length != 3) {
+                    continue;
+                }
+                if (partes[1].equals("memory")) {
+                    // cgroup v1: dentro de un contenedor la jerarquía puede verse desde la raíz
+                    Path limite = Paths.get("/sys/fs/cgroup/memory" + partes[2], "memory.limit_in_bytes");
+                    if (!Files.exists(limite)) {
+                        limite = Paths.get("/sys/fs/cgroup/memory", "memory.limit_in_bytes");
+                    }
+                    long bytes = Long.parseLong(new String(Files.readAllBytes(limite)).trim());
+                    // v1 usa un valor cercano a Long.MAX_VALUE para indicar que no hay límite
+                    return bytes >= Long.MAX_VALUE / 2 ? "max" : String.valueOf(bytes);
+                }
+                if (partes[0].equals("0") && partes[1].isEmpty()) {
+                    Path memoryMax = Paths.get("/sys/fs/cgroup" + partes[2], "memory.max");
+                    if (Files.exists(memoryMax)) {
+                        return new String(Files.readAllBytes(memoryMax)).trim();
+                    }
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Sin información del cgroup
+        }
+        return null;
+    }
+
+    private void reportarResultados(SimuladorNRU sim, int numMarcos, long tamano,
+                                    long minflt, long majflt, long tiempoNs) {
+        long primerToque = (tamano + PAGINA_SO - 1) / PAGINA_SO;
+        String limite = leerLimiteCgroup();
+        boolean limitado = limite != null && !limite.equals("max");
+
+        System.out.println("=== RESULTADOS REPRODUCCION EN MEMORIA REAL ===");
+        System.out.println("Total de referencias: " + sim.getReferencias().size());
+        System.out.println("Número de marcos simulados: " + numMarcos
+            + " (" + ((long) numMarcos * sim.getPageSize()) + " bytes)");
+        System.out.println("Límite de memoria del cgroup: "
+            + (limite == null ? "desconocido" : limite));
+        System.out.println("Fallas simuladas (NRU): " + sim.getMisses());
+        System.out.println("Fallas menores medidas (minflt): " + minflt);
+        System.out.println("Fallas mayores medidas (majflt): " + majflt);
+        System.out.println("Fallas de primer toque esperadas (páginas de " + PAGINA_SO + " bytes asumidas): " + primerToque);
+        System.out.println("Tiempo simulado (ns): " + sim.getTiempoEstimadoNs());
+        System.out.println("Tiempo medido (ns):   " + tiempoNs);
+        if (!limitado) {
+            System.out.println("Nota: no se detectó un límite de memoria, así que el kernel no tiene por qué");
+            System.out.println("desalojar páginas y las fallas medidas pueden ser solo de primer toque. Java 17");
+            System.out.println("no puede imponer el límite; lance la JVM dentro de un cgroup con memory.max.");
+        }
+    }
+}
@@ -10,6 +10,10 @@ public class SimuladorNRU {
     private PaginaInfo[] tablaPaginas;   
     private int[] marcos;                
     
+    // Costos estimados por acceso
+    static final long COSTO_HIT_NS = 50;
+    static final long COSTO_FALLA_NS = 10_000_000;
+    
     // Contadores
     private long hits = 0;
     private long misses = 0;
@@ -83,6 +87,14 @@ public class SimuladorNRU {
         reportarResultados();
     }
     
+    // Accesos para comparar la simulación con la reproducción en memoria real
+    List<Referencia> getReferencias() { return referencias; }
+    int getPageSize() { return pageSize; }
+    int getNumPaginas() { return numPaginas; }
+    long getHits() { return hits; }
+    long getMisses() { return misses; }
+    long getTiempoEstimadoNs() { return hits * COSTO_HIT_NS + misses * COSTO_FALLA_NS; }
+    
     /**
      * Lee el archivo de referencias (texto) y retorna el valor esperado de NR.
      */
@@ -136,6 +148,11 @@ private long leerArchivoReferencias(String archivo) {
                     System.out.println("Error al parsear números en la línea: " + linea);
                     continue;
                 }
+                // Validar que la página y el desplazamiento estén dentro de NP y TP
+                if (page < 0 || page >= numPaginas || off < 0 || off >= pageSize) {
+                    System.out.println("Página o desplazamiento fuera de rango en la línea: " + linea);
+                    continue;
+                }
                 // Validar que la cuarta parte sea "R" o "W"
                 String modo = partes[3].trim();
                 if (!modo.equals("R") && !modo.equals("W")) {
@@ -252,12 +269,12 @@ private long leerArchivoReferencias(String archivo) {
         double porcHits = (100.0 * hits) / totalReferencias;
         System.out.printf("Porcentaje de hits: %.2f %%\n", porcHits);
         
-        long tiempoNs = hits * 50 + misses * 10_000_000;
+        long tiempoNs = getTiempoEstimadoNs();
         System.out.println("Tiempo total estimado (ns): " + tiempoNs);
         
         // Tiempos estimados para todo hit y todo miss:
-        long tiempoAllHit  = totalReferencias * 50;
-        long tiempoAllMiss = totalReferencias * 10_000_000L;
+        long tiempoAllHit  = totalReferencias * COSTO_HIT_NS;
+        long tiempoAllMiss = totalReferencias * COSTO_FALLA_NS;
         System.out.println("Tiempo si todo Hit (ns):  " + tiempoAllHit);
         System.out.println("Tiempo si todo Miss (ns): " + tiempoAllMiss);
         